@@ -1,25 +1,35 @@
 package com.example.craps.controller;
 
 import com.example.craps.model.GameSession;
-import com.example.craps.model.LeaderboardEntry;
-import com.example.craps.repository.LeaderboardRepository;
+import com.example.craps.model.LeaderboardPeriod;
+import com.example.craps.model.PlayerProfile;
+import com.example.craps.repository.PlayerProfileRepository;
+import com.example.craps.service.GameRecorder;
+import com.example.craps.service.PeriodLeaderboards;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.time.LocalDate;
 import java.util.concurrent.ThreadLocalRandom;
 
 @Controller
 public class CrapsController {
 
     private final GameSession gameSession;
-    private final LeaderboardRepository leaderboardRepository;
+    private final PlayerProfileRepository playerProfileRepository;
+    private final PeriodLeaderboards periodLeaderboards;
+    private final GameRecorder gameRecorder;
 
-    public CrapsController(GameSession gameSession, LeaderboardRepository leaderboardRepository) {
+    public CrapsController(GameSession gameSession, PlayerProfileRepository playerProfileRepository,
+                           PeriodLeaderboards periodLeaderboards, GameRecorder gameRecorder) {
         this.gameSession = gameSession;
-        this.leaderboardRepository = leaderboardRepository;
+        this.playerProfileRepository = playerProfileRepository;
+        this.periodLeaderboards = periodLeaderboards;
+        this.gameRecorder = gameRecorder;
     }
 
     @GetMapping("/")
@@ -61,20 +71,40 @@ public class CrapsController {
     @PostMapping("/save-score")
     public String saveScore(@RequestParam String playerName) {
         if (playerName != null && !playerName.trim().isEmpty()) {
-            LeaderboardEntry entry = new LeaderboardEntry(
+            String playerKey = PlayerProfile.normalize(playerName);
+            gameRecorder.record(playerKey, gameSession);
+            playerProfileRepository.recordGame(
+                    playerKey,
                     playerName.trim(),
                     gameSession.getBankroll(),
-                    gameSession.getAchievementIds()
+                    gameSession.getWins(),
+                    gameSession.getAchievementMask()
             );
-            leaderboardRepository.save(entry);
+            periodLeaderboards.record(playerKey, playerName.trim(), gameSession.getBankroll());
         }
         gameSession.reset();
         return "redirect:/leaderboard";
     }
 
     @GetMapping("/leaderboard")
-    public String leaderboard(Model model) {
-        model.addAttribute("leaders", leaderboardRepository.findTop5ByOrderByScoreDesc());
+    public String leaderboard(@RequestParam(defaultValue = "ALL_TIME") LeaderboardPeriod period,
+                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                              Model model) {
+        LocalDate current = periodLeaderboards.currentStart(period);
+        LocalDate viewing = date == null || period == LeaderboardPeriod.ALL_TIME || date.isAfter(current)
+                ? current : period.startOf(date);
+        boolean closedPeriod = viewing.isBefore(current);
+        LocalDate nextDate = period.nextStart(viewing);
+
+        model.addAttribute("leaders", closedPeriod
+                ? periodLeaderboards.snapshot(period, viewing, 5)
+                : periodLeaderboards.top(period, 5));
+        model.addAttribute("period", period);
+        model.addAttribute("periods", LeaderboardPeriod.values());
+        model.addAttribute("viewing", viewing);
+        model.addAttribute("closedPeriod", closedPeriod);
+        model.addAttribute("previousDate", period == LeaderboardPeriod.ALL_TIME ? null : period.startOf(viewing.minusDays(1)));
+        model.addAttribute("nextDate", nextDate.isBefore(current) ? nextDate : null);
         return "leaderboard";
     }
 
@@ -1,19 +1,30 @@
 package com.example.craps.model;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Each achievement owns a fixed bit in the persisted {@code achievement_mask}
+ * column. Bits are part of the stored format: never reuse or renumber one, and
+ * give new constants the next unused bit. A long holds at most 64.
+ */
 public enum Achievement {
-    FIRST_BLOOD("First Blood", "Win your first roll", "\uD83E\uDE78"),
-    HOT_STREAK("Hot Streak", "Win 5 in a row", "\uD83D\uDD25"),
-    HIGH_ROLLER("High Roller", "Reach $500 bankroll", "\uD83D\uDCB0"),
-    LUCKY_7("Lucky 7", "Win on natural 7 three times", "\uD83C\uDFB0"),
-    POINT_SNIPER("Point Sniper", "Hit the point on the very next roll", "\uD83C\uDFAF"),
-    COMEBACK_KID("Comeback Kid", "Recover from below $20 to above $200", "\uD83D\uDCAA"),
-    SNAKE_EYES("Snake Eyes", "Roll snake eyes (1+1)", "\uD83D\uDC0D");
+    FIRST_BLOOD(0, "First Blood", "Win your first roll", "\uD83E\uDE78"),
+    HOT_STREAK(1, "Hot Streak", "Win 5 in a row", "\uD83D\uDD25"),
+    HIGH_ROLLER(2, "High Roller", "Reach $500 bankroll", "\uD83D\uDCB0"),
+    LUCKY_7(3, "Lucky 7", "Win on natural 7 three times", "\uD83C\uDFB0"),
+    POINT_SNIPER(4, "Point Sniper", "Hit the point on the very next roll", "\uD83C\uDFAF"),
+    COMEBACK_KID(5, "Comeback Kid", "Recover from below $20 to above $200", "\uD83D\uDCAA"),
+    SNAKE_EYES(6, "Snake Eyes", "Roll snake eyes (1+1)", "\uD83D\uDC0D");
 
+    private final int bit;
     private final String displayName;
     private final String description;
     private final String icon;
 
-    Achievement(String displayName, String description, String icon) {
+    Achievement(int bit, String displayName, String description, String icon) {
+        this.bit = bit;
         this.displayName = displayName;
         this.description = description;
         this.icon = icon;
@@ -22,4 +33,30 @@ public enum Achievement {
     public String getDisplayName() { return displayName; }
     public String getDescription() { return description; }
     public String getIcon() { return icon; }
+
+    // ===== Bitmask encoding for persisted profiles =====
+    public long mask() { return 1L << bit; }
+
+    static {
+        long seen = 0L;
+        for (Achievement a : values()) {
+            if (a.bit < 0 || a.bit > 63) throw new IllegalStateException(a + " bit out of range: " + a.bit);
+            if ((seen & a.mask()) != 0) throw new IllegalStateException(a + " reuses bit " + a.bit);
+            seen |= a.mask();
+        }
+    }
+
+    public static long toMask(Collection<Achievement> achievements) {
+        long mask = 0L;
+        for (Achievement a : achievements) mask |= a.mask();
+        return mask;
+    }
+
+    public static Set<Achievement> fromMask(long mask) {
+        Set<Achievement> result = EnumSet.noneOf(Achievement.class);
+        for (Achievement a : values()) {
+            if ((mask & a.mask()) != 0) result.add(a);
+        }
+        return result;
+    }
 }
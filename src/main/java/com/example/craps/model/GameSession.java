@@ -33,6 +33,9 @@ public class GameSession {
     private boolean wasBelow20 = false;
     private int rollsSincePointSet = 0;
 
+    // Replay log: every bet, odds bet and roll, in the format GameReplayVerifier parses
+    private final StringBuilder replayActions = new StringBuilder();
+
     // ===== Roll Record =====
     public record RollRecord(int dice1, int dice2, int sum, String outcome, boolean win, boolean loss) {
         public String icon() {
@@ -49,6 +52,7 @@ public class GameSession {
 
     // ===== Core Game Logic =====
     public void roll(int d1, int d2) {
+        logAction("R" + d1 + "," + d2);
         if (currentBet > bankroll) currentBet = bankroll;
         if (bankroll <= 0) return;
 
@@ -132,7 +136,9 @@ public class GameSession {
     // ===== Variable Bet Sizing =====
     public void setCurrentBet(int bet) {
         if (point != 0) return;
+        int previous = currentBet;
         this.currentBet = Math.max(5, Math.min(bet, bankroll));
+        if (currentBet != previous) logAction("B" + bet);
     }
 
     // ===== Odds Bet =====
@@ -140,6 +146,7 @@ public class GameSession {
         if (point == 0 || oddsBet > 0) return false;
         int maxOdds = Math.min(currentBet * 3, bankroll);
         this.oddsBet = Math.max(0, Math.min(amount, maxOdds));
+        if (oddsBet > 0) logAction("O" + amount);
         return oddsBet > 0;
     }
 
@@ -183,6 +190,18 @@ public class GameSession {
                 .collect(Collectors.joining(","));
     }
 
+    public long getAchievementMask() {
+        return Achievement.toMask(unlockedAchievements);
+    }
+
+    // ===== Replay Log =====
+    private void logAction(String action) {
+        if (!replayActions.isEmpty()) replayActions.append(' ');
+        replayActions.append(action);
+    }
+
+    public String getReplayActions() { return replayActions.toString(); }
+
     // ===== Reset =====
     public void reset() {
         bankroll = 100;
@@ -199,6 +218,7 @@ public class GameSession {
         natural7Wins = 0;
         wasBelow20 = false;
         rollsSincePointSet = 0;
+        replayActions.setLength(0);
         message = "Welcome to Craps! Choose your bet and click Roll Dice.";
     }
 
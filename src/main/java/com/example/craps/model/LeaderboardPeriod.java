@@ -0,0 +1,37 @@
+package com.example.craps.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum LeaderboardPeriod {
+    DAILY("Today"),
+    WEEKLY("This Week"),
+    ALL_TIME("All Time");
+
+    private final String displayName;
+
+    LeaderboardPeriod(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() { return displayName; }
+
+    /** First day of the period containing {@code date}; all-time is a single bucket that never closes. */
+    public LocalDate startOf(LocalDate date) {
+        return switch (this) {
+            case DAILY -> date;
+            case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case ALL_TIME -> LocalDate.EPOCH;
+        };
+    }
+
+    /** First day of the period following the one that starts on {@code start}. */
+    public LocalDate nextStart(LocalDate start) {
+        return switch (this) {
+            case DAILY -> start.plusDays(1);
+            case WEEKLY -> start.plusWeeks(1);
+            case ALL_TIME -> start;
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.craps.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * One row per player, keyed by normalized name. Aggregates are maintained
+ * incrementally by {@code PlayerProfileRepository.recordGame} so per-player
+ * reads are primary-key lookups rather than scans over individual games.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_player_profile_best_score", columnList = "bestScore"))
+public class PlayerProfile {
+
+    @Id
+    private String playerKey;
+    private String displayName;
+    private int bestScore;
+    private int totalGames;
+    private int totalWins;
+    private long achievementMask;
+
+    public PlayerProfile() {}
+
+    /** Case- and whitespace-insensitive key, so "Ace  High" and "ace high" share a profile. */
+    public static String normalize(String playerName) {
+        return playerName.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    public Set<Achievement> getAchievements() { return Achievement.fromMask(achievementMask); }
+
+    public String getPlayerKey() { return playerKey; }
+    public String getDisplayName() { return displayName; }
+    public int getBestScore() { return bestScore; }
+    public int getTotalGames() { return totalGames; }
+    public int getTotalWins() { return totalWins; }
+    public long getAchievementMask() { return achievementMask; }
+}
@@ -0,0 +1,36 @@
+package com.example.craps.repository;
+
+import com.example.craps.model.PlayerProfile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface PlayerProfileRepository extends JpaRepository<PlayerProfile, String> {
+
+    /** Folds one finished game into the player's aggregates with a single MERGE statement. */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            MERGE INTO player_profile p
+            USING (VALUES (CAST(:playerKey AS VARCHAR(255)), CAST(:displayName AS VARCHAR(255)),
+                           CAST(:score AS INT), CAST(:wins AS INT), CAST(:achievementMask AS BIGINT)))
+                AS g(player_key, display_name, score, wins, achievement_mask)
+            ON p.player_key = g.player_key
+            WHEN MATCHED THEN UPDATE SET
+                display_name = g.display_name,
+                best_score = GREATEST(p.best_score, g.score),
+                total_games = p.total_games + 1,
+                total_wins = p.total_wins + g.wins,
+                achievement_mask = BITOR(p.achievement_mask, g.achievement_mask)
+            WHEN NOT MATCHED THEN INSERT
+                (player_key, display_name, best_score, total_games, total_wins, achievement_mask)
+                VALUES (g.player_key, g.display_name, g.score, 1, g.wins, g.achievement_mask)
+            """, nativeQuery = true)
+    int recordGame(@Param("playerKey") String playerKey,
+                   @Param("displayName") String displayName,
+                   @Param("score") int score,
+                   @Param("wins") int wins,
+                   @Param("achievementMask") long achievementMask);
+}
@@ -0,0 +1,49 @@
+package com.example.craps.service;
+
+import com.example.craps.model.GameSession;
+import com.example.craps.service.GameReplayVerifier.GameRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Appends each saved game to {@code craps.replay.record-file} in the line
+ * format {@link GameReplayVerifier} replays. Recording is opt-in: it is off
+ * while the property is blank, and the file is not rotated, so point it at a
+ * location managed by log rotation. A failed write is logged and the game is
+ * skipped, so saving a score never depends on the disk.
+ */
+@Service
+public class GameRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(GameRecorder.class);
+
+    private final Path recordFile;
+
+    public GameRecorder(@Value("${craps.replay.record-file:}") String recordFile) {
+        this.recordFile = recordFile.isBlank() ? null : Path.of(recordFile);
+    }
+
+    public void record(String playerKey, GameSession session) {
+        if (recordFile == null) return;
+        String line = GameRecord.format(UUID.randomUUID().toString(), playerKey, Instant.now(), session)
+                + System.lineSeparator();
+        try {
+            synchronized (this) {
+                Files.writeString(recordFile, line, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+        } catch (IOException e) {
+            log.warn("Could not record game for {} to {}", playerKey, recordFile, e);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.craps.service;
+
+import com.example.craps.model.Achievement;
+import com.example.craps.model.GameSession;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Re-settles recorded games through {@link GameSession} and reports any game
+ * whose final bankroll or achievements differ from what was recorded.
+ *
+ * <p>Input is one game per line:
+ * <pre>gameId|playerKey|savedAt|expectedBankroll|ACHIEVEMENT,IDS|B25 R2,2 O50 R1,3</pre>
+ * where the player key is URL-encoded, {@code savedAt} is an ISO-8601 instant,
+ * {@code Bn} sets the pass line bet, {@code On} places an odds bet and
+ * {@code Rd1,d2} rolls the dice. {@link GameRecorder} writes this format for
+ * saved games, and {@link ReplayVerificationRunner} checks a recorded file
+ * under the {@code verify} profile. Lines are read in fixed-size batches that
+ * are replayed in parallel on a dedicated pool while the next batch is read,
+ * so memory stays bounded by a few batches and results are emitted in input
+ * order.
+ */
+@Service
+public class GameReplayVerifier {
+
+    public sealed interface Action {
+        void apply(GameSession session);
+    }
+
+    public record SetBet(int amount) implements Action {
+        public void apply(GameSession session) { session.setCurrentBet(amount); }
+    }
+
+    public record PlaceOdds(int amount) implements Action {
+        public void apply(GameSession session) { session.placeOddsBet(amount); }
+    }
+
+    public record Roll(int dice1, int dice2) implements Action {
+        public void apply(GameSession session) { session.roll(dice1, dice2); }
+    }
+
+    public record GameRecord(String gameId, String playerKey, Instant savedAt, int expectedBankroll,
+                             Set<Achievement> expectedAchievements, List<Action> actions) {
+
+        /** Formats a finished game as one input line for {@link #parse}. */
+        public static String format(String gameId, String playerKey, Instant savedAt, GameSession session) {
+            return String.join("|", gameId, URLEncoder.encode(playerKey, StandardCharsets.UTF_8),
+                    savedAt.toString(), String.valueOf(session.getBankroll()),
+                    session.getAchievementIds(), session.getReplayActions());
+        }
+
+        public static GameRecord parse(String line) {
+            String[] fields = line.split("\\|", -1);
+            if (fields.length != 6) throw new IllegalArgumentException("Expected 6 fields but got " + fields.length);
+
+            Set<Achievement> achievements = EnumSet.noneOf(Achievement.class);
+            for (String id : fields[4].split(",")) {
+                if (!id.isBlank()) achievements.add(Achievement.valueOf(id.trim()));
+            }
+
+            List<Action> actions = new ArrayList<>();
+            for (String token : fields[5].trim().split("\\s+")) {
+                if (token.isEmpty()) continue;
+                String arg = token.substring(1);
+                actions.add(switch (token.charAt(0)) {
+                    case 'B' -> new SetBet(Integer.parseInt(arg));
+                    case 'O' -> new PlaceOdds(Integer.parseInt(arg));
+                    case 'R' -> {
+                        String[] dice = arg.split(",");
+                        yield new Roll(die(dice[0]), die(dice[1]));
+                    }
+                    default -> throw new IllegalArgumentException("Unknown action: " + token);
+                });
+            }
+            return new GameRecord(fields[0], URLDecoder.decode(fields[1], StandardCharsets.UTF_8),
+                    Instant.parse(fields[2]), Integer.parseInt(fields[3].trim()), achievements, actions);
+        }
+
+        private static int die(String value) {
+            int d = Integer.parseInt(value.trim());
+            if (d < 1 || d > 6) throw new IllegalArgumentException("Die out of range: " + d);
+            return d;
+        }
+    }
+
+    public record Result(String gameId, String playerKey, Instant savedAt, int expectedBankroll, int actualBankroll,
+                         Set<Achievement> expectedAchievements, Set<Achievement> actualAchievements,
+                         String error) {
+        public boolean matches() {
+            return error == null
+                    && expectedBankroll == actualBankroll
+                    && expectedAchievements.equals(actualAchievements);
+        }
+    }
+
+    public record Summary(long games, long mismatches) {}
+
+    private final int batchSize;
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    public GameReplayVerifier(@Value("${craps.replay.batch-size:4096}") int batchSize) {
+        if (batchSize <= 0) throw new IllegalArgumentException("craps.replay.batch-size must be positive: " + batchSize);
+        this.batchSize = batchSize;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    public Result verify(GameRecord record) {
+        GameSession session = new GameSession();
+        for (Action action : record.actions()) action.apply(session);
+        return new Result(record.gameId(), record.playerKey(), record.savedAt(),
+                record.expectedBankroll(), session.getBankroll(),
+                record.expectedAchievements(), Achievement.fromMask(session.getAchievementMask()), null);
+    }
+
+    /** Replays every line from {@code input}, handing each result to {@code sink} in input order. */
+    public Summary verifyAll(BufferedReader input, Consumer<Result> sink) {
+        long[] totals = new long[2]; // games, mismatches
+        Future<List<Result>> pending = null;
+        List<String> batch = new ArrayList<>(batchSize);
+        try {
+            String line;
+            while ((line = input.readLine()) != null) {
+                if (line.isBlank()) continue;
+                batch.add(line);
+                if (batch.size() == batchSize) {
+                    Future<List<Result>> next = submit(batch);
+                    emit(pending, sink, totals);
+                    pending = next;
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            Future<List<Result>> last = batch.isEmpty() ? null : submit(batch);
+            emit(pending, sink, totals);
+            emit(last, sink, totals);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Summary(totals[0], totals[1]);
+    }
+
+    // A parallel stream started from inside the pool runs on that pool, not the common one
+    private Future<List<Result>> submit(List<String> batch) {
+        return pool.submit(() -> batch.parallelStream().map(this::verifyLine).toList());
+    }
+
+    private static void emit(Future<List<Result>> batch, Consumer<Result> sink, long[] totals) {
+        if (batch == null) return;
+        List<Result> results;
+        try {
+            results = batch.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while verifying games", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Replay batch failed", e.getCause());
+        }
+        for (Result result : results) {
+            totals[0]++;
+            if (!result.matches()) totals[1]++;
+            sink.accept(result);
+        }
+    }
+
+    private Result verifyLine(String line) {
+        try {
+            return verify(GameRecord.parse(line));
+        } catch (RuntimeException e) {
+            String gameId = line.substring(0, Math.max(0, line.indexOf('|')));
+            return new Result(gameId, null, null, 0, 0, Set.of(), Set.of(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.craps.service;
+
+import com.example.craps.model.LeaderboardPeriod;
+import com.example.craps.repository.PlayerProfileRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Daily, weekly and all-time leaderboards, each kept as a bounded top-K of
+ * players that is updated as scores are saved. When a period closes its
+ * standings are frozen into an immutable snapshot, and snapshots older than
+ * the retention window are dropped. Reads never touch the database.
+ *
+ * <p>Only the all-time board is rebuilt (from player profiles) at startup. The
+ * open daily and weekly boards and all closed snapshots live in memory and
+ * start empty again after a restart.
+ */
+@Service
+public class PeriodLeaderboards {
+
+    public record Standing(String playerKey, String displayName, int score) {}
+
+    private static final class Bucket {
+        final LocalDate start;
+        volatile List<Standing> standings = List.of();
+
+        Bucket(LocalDate start) {
+            this.start = start;
+        }
+    }
+
+    private final Clock clock;
+    private final int capacity;
+    private final int retentionDays;
+    private final Map<LeaderboardPeriod, Bucket> open = new ConcurrentHashMap<>();
+    private final Map<LeaderboardPeriod, NavigableMap<LocalDate, List<Standing>>> closed = new EnumMap<>(LeaderboardPeriod.class);
+
+    @Autowired
+    public PeriodLeaderboards(PlayerProfileRepository playerProfileRepository,
+                              @Value("${craps.leaderboard.capacity:10}") int capacity,
+                              @Value("${craps.leaderboard.retention-days:90}") int retentionDays) {
+        this(Clock.systemDefaultZone(), capacity, retentionDays);
+        playerProfileRepository.findAll(PageRequest.of(0, capacity, Sort.by(Sort.Direction.DESC, "bestScore")))
+                .forEach(p -> offer(open.get(LeaderboardPeriod.ALL_TIME),
+                        new Standing(p.getPlayerKey(), p.getDisplayName(), p.getBestScore())));
+    }
+
+    PeriodLeaderboards(Clock clock, int capacity, int retentionDays) {
+        if (capacity <= 0) throw new IllegalArgumentException("craps.leaderboard.capacity must be positive: " + capacity);
+        if (retentionDays <= 0) throw new IllegalArgumentException("craps.leaderboard.retention-days must be positive: " + retentionDays);
+        this.clock = clock;
+        this.capacity = capacity;
+        this.retentionDays = retentionDays;
+        LocalDate today = LocalDate.now(clock);
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            open.put(period, new Bucket(period.startOf(today)));
+            closed.put(period, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    // ===== Writes =====
+    public synchronized void record(String playerKey, String displayName, int score) {
+        LocalDate today = LocalDate.now(clock);
+        Standing standing = new Standing(playerKey, displayName, score);
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            offer(current(period, today), standing);
+        }
+    }
+
+    /** Keeps each player's best score in the bucket, sorted descending and capped at {@code capacity}. */
+    private void offer(Bucket bucket, Standing standing) {
+        List<Standing> standings = new ArrayList<>(bucket.standings);
+        for (int i = 0; i < standings.size(); i++) {
+            if (standings.get(i).playerKey().equals(standing.playerKey())) {
+                if (standings.get(i).score() >= standing.score()) return;
+                standings.remove(i);
+                break;
+            }
+        }
+        if (standings.size() >= capacity && standings.get(capacity - 1).score() >= standing.score()) return;
+
+        int pos = 0;
+        while (pos < standings.size() && standings.get(pos).score() >= standing.score()) pos++;
+        standings.add(pos, standing);
+        if (standings.size() > capacity) standings.remove(standings.size() - 1);
+        bucket.standings = List.copyOf(standings);
+    }
+
+    // ===== Rollup & Retention =====
+    private Bucket current(LeaderboardPeriod period, LocalDate today) {
+        Bucket bucket = open.get(period);
+        LocalDate start = period.startOf(today);
+        if (bucket.start.equals(start)) return bucket;
+        synchronized (this) {
+            bucket = open.get(period);
+            if (bucket.start.equals(start)) return bucket;
+            NavigableMap<LocalDate, List<Standing>> snapshots = closed.get(period);
+            if (!bucket.standings.isEmpty()) snapshots.put(bucket.start, bucket.standings);
+            snapshots.headMap(period.startOf(today.minusDays(retentionDays))).clear();
+            Bucket next = new Bucket(start);
+            open.put(period, next);
+            return next;
+        }
+    }
+
+    // ===== Reads =====
+    public LocalDate currentStart(LeaderboardPeriod period) {
+        return period.startOf(LocalDate.now(clock));
+    }
+
+    public List<Standing> top(LeaderboardPeriod period, int n) {
+        return head(current(period, LocalDate.now(clock)).standings, n);
+    }
+
+    /** Standings of a closed period, or an empty list if it had no scores or is past retention. */
+    public List<Standing> snapshot(LeaderboardPeriod period, LocalDate date, int n) {
+        current(period, LocalDate.now(clock));
+        return head(closed.get(period).getOrDefault(period.startOf(date), List.of()), n);
+    }
+
+    private static List<Standing> head(List<Standing> standings, int n) {
+        return standings.size() <= n ? standings : standings.subList(0, n);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.craps.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Batch entry point for dispute checks. Under the {@code verify} profile the
+ * app starts without a web server, replays {@code craps.replay.verify-file},
+ * logs every mismatch and a summary, then exits with status 1 if any game
+ * failed verification:
+ * <pre>java -jar craps-game.jar --spring.profiles.active=verify --craps.replay.verify-file=games.log</pre>
+ */
+@Component
+@Profile("verify")
+public class ReplayVerificationRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplayVerificationRunner.class);
+
+    private final GameReplayVerifier verifier;
+    private final ConfigurableApplicationContext context;
+    private final String verifyFile;
+
+    public ReplayVerificationRunner(GameReplayVerifier verifier, ConfigurableApplicationContext context,
+                                    @Value("${craps.replay.verify-file:}") String verifyFile) {
+        if (verifyFile.isBlank()) throw new IllegalStateException("The verify profile requires craps.replay.verify-file");
+        this.verifier = verifier;
+        this.context = context;
+        this.verifyFile = verifyFile;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        GameReplayVerifier.Summary summary;
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(verifyFile), StandardCharsets.UTF_8)) {
+            summary = verifier.verifyAll(reader, result -> {
+                if (!result.matches()) log.warn("Replay mismatch: {}", result);
+            });
+        }
+        log.info("Verified {} recorded games from {}: {} mismatches", summary.games(), verifyFile, summary.mismatches());
+        System.exit(SpringApplication.exit(context, () -> summary.mismatches() == 0 ? 0 : 1));
+    }
+}
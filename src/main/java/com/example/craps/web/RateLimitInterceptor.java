@@ -0,0 +1,136 @@
+package com.example.craps.web;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Per-session throttle for the game action endpoints. Requests over the limit
+ * are answered with a small static 429 before the controller runs, so no game
+ * logic or template rendering is spent on them. The 429 carries a
+ * {@code Refresh} back to the game, so a throttled browser resumes once a
+ * token is available.
+ *
+ * <p>Only one action per session runs at a time, since {@link com.example.craps.model.GameSession}
+ * is not thread-safe. A duplicate that arrives while another action is in
+ * flight is coalesced into it: it is redirected to the table, which shows the
+ * in-flight action's result. Requests without a session (expired, or a client
+ * that drops the cookie) are redirected to the table to start one rather than
+ * getting a fresh bucket each time.
+ */
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    // The UI holds every roll for a 1.5s animation, so even a player who clicks
+    // as soon as each page loads (odds bet included) stays under ~1 action/s.
+    static final int DEFAULT_BURST = 5;
+    static final double DEFAULT_TOKENS_PER_SECOND = 2;
+
+    static final String BUCKET_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".bucket";
+    static final String IN_FLIGHT_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".inFlight";
+    private static final String HOLDS_IN_FLIGHT = RateLimitInterceptor.class.getName() + ".holdsInFlight";
+
+    private final int burst;
+    private final double tokensPerSecond;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitInterceptor(@Value("${craps.ratelimit.burst:" + DEFAULT_BURST + "}") int burst,
+                                @Value("${craps.ratelimit.tokens-per-second:" + DEFAULT_TOKENS_PER_SECOND + "}") double tokensPerSecond,
+                                MeterRegistry meterRegistry) {
+        if (burst <= 0) throw new IllegalArgumentException("craps.ratelimit.burst must be positive: " + burst);
+        if (!(tokensPerSecond > 0)) {
+            throw new IllegalArgumentException("craps.ratelimit.tokens-per-second must be positive: " + tokensPerSecond);
+        }
+        // TokenBucket works in nanoseconds; keep burst / rate well inside a long (~146 years)
+        if (burst / tokensPerSecond * 1e9 >= Long.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("craps.ratelimit.burst / tokens-per-second is too large: " + burst / tokensPerSecond);
+        }
+        this.burst = burst;
+        this.tokensPerSecond = tokensPerSecond;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            count(request, "no-session");
+            response.sendRedirect(request.getContextPath() + "/");
+            return false;
+        }
+        SessionState state = stateFor(session);
+
+        long now = System.nanoTime();
+        long waitNanos = state.bucket().tryAcquire(now);
+        if (waitNanos > 0) {
+            count(request, "rate");
+            tooManyRequests(request, response, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            return false;
+        }
+
+        if (!state.inFlight().compareAndSet(false, true)) {
+            count(request, "coalesced");
+            response.sendRedirect(request.getContextPath() + "/");
+            return false;
+        }
+        request.setAttribute(HOLDS_IN_FLIGHT, state.inFlight());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(HOLDS_IN_FLIGHT) instanceof AtomicBoolean inFlight) inFlight.set(false);
+    }
+
+    private void count(HttpServletRequest request, String reason) {
+        // Tag with the mapped pattern, not the raw URI, so path parameters such as ;jsessionid cannot mint new meters
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        meterRegistry.counter("craps.requests.limited",
+                "uri", pattern != null ? pattern.toString() : "UNKNOWN",
+                "reason", reason).increment();
+    }
+
+    private static void tooManyRequests(HttpServletRequest request, HttpServletResponse response, long retrySeconds)
+            throws IOException {
+        long seconds = Math.max(1, retrySeconds);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(seconds));
+        response.setHeader("Refresh", seconds + "; url=" + request.getContextPath() + "/");
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write("Too many requests. Returning to the table in " + seconds + "s.");
+    }
+
+    private record SessionState(TokenBucket bucket, AtomicBoolean inFlight) {}
+
+    // Created once per session under the session mutex; every later request reads it lock-free.
+    private SessionState stateFor(HttpSession session) {
+        TokenBucket bucket = (TokenBucket) session.getAttribute(BUCKET_ATTRIBUTE);
+        AtomicBoolean inFlight = (AtomicBoolean) session.getAttribute(IN_FLIGHT_ATTRIBUTE);
+        if (bucket == null || inFlight == null) {
+            synchronized (WebUtils.getSessionMutex(session)) {
+                bucket = (TokenBucket) session.getAttribute(BUCKET_ATTRIBUTE);
+                if (bucket == null) {
+                    bucket = new TokenBucket(burst, tokensPerSecond, System.nanoTime());
+                    session.setAttribute(BUCKET_ATTRIBUTE, bucket);
+                }
+                inFlight = (AtomicBoolean) session.getAttribute(IN_FLIGHT_ATTRIBUTE);
+                if (inFlight == null) {
+                    inFlight = new AtomicBoolean();
+                    session.setAttribute(IN_FLIGHT_ATTRIBUTE, inFlight);
+                }
+            }
+        }
+        return new SessionState(bucket, inFlight);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.craps.web;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket. Rather than a token count plus refill timestamp it
+ * tracks a single "theoretical arrival time" (the GCRA form of the same
+ * algorithm), so each acquire is one CAS on an {@link AtomicLong}.
+ */
+public class TokenBucket {
+
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(int burst, double tokensPerSecond, long nowNanos) {
+        this.nanosPerToken = (long) (1_000_000_000L / tokensPerSecond);
+        this.burstNanos = nanosPerToken * burst;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /** Returns 0 if a token was taken, otherwise the nanoseconds until one becomes available. */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, nowNanos) + nanosPerToken;
+            long wait = next - nowNanos - burstNanos;
+            if (wait > 0) return wait;
+            if (theoreticalArrival.compareAndSet(tat, next)) return 0;
+        }
+    }
+}
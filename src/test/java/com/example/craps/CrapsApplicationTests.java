@@ -2,8 +2,8 @@ package com.example.craps;
 
 import com.example.craps.model.Achievement;
 import com.example.craps.model.GameSession;
-import com.example.craps.model.LeaderboardEntry;
-import com.example.craps.repository.LeaderboardRepository;
+import com.example.craps.model.PlayerProfile;
+import com.example.craps.repository.PlayerProfileRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -310,28 +310,58 @@ class CrapsApplicationTests {
         assertThat(ids).contains("SNAKE_EYES");
         assertThat(ids).contains("FIRST_BLOOD");
     }
+
+    @Test
+    void testAchievementMask_RoundTrips() {
+        session.roll(1, 1); // Snake eyes + loss
+        session.roll(3, 4); // First blood (first win)
+        assertThat(Achievement.fromMask(session.getAchievementMask()))
+                .containsExactlyInAnyOrder(Achievement.SNAKE_EYES, Achievement.FIRST_BLOOD);
+    }
+
+    @Test
+    void testAchievementMask_BitsAreStable() {
+        // Persisted in player_profile.achievement_mask; changing these breaks stored profiles
+        assertThat(Achievement.FIRST_BLOOD.mask()).isEqualTo(1L);
+        assertThat(Achievement.POINT_SNIPER.mask()).isEqualTo(1L << 4);
+        assertThat(Achievement.SNAKE_EYES.mask()).isEqualTo(1L << 6);
+    }
 }
 
 @DataJpaTest
-class LeaderboardRepositoryTest {
+class PlayerProfileRepositoryTest {
 
     @Autowired
-    private LeaderboardRepository repository;
+    private PlayerProfileRepository repository;
+
+    private void record(String name, int score, int wins, Achievement... achievements) {
+        repository.recordGame(PlayerProfile.normalize(name), name.trim(), score, wins,
+                Achievement.toMask(List.of(achievements)));
+    }
 
     @Test
-    void testFindTop5() {
-        repository.save(new LeaderboardEntry("Player1", 100));
-        repository.save(new LeaderboardEntry("Player2", 50));
-        repository.save(new LeaderboardEntry("Player3", 200));
-        repository.save(new LeaderboardEntry("Player4", 300));
-        repository.save(new LeaderboardEntry("Player5", 150));
-        repository.save(new LeaderboardEntry("Player6", 10));
+    void testRecordGame_InsertsNewProfile() {
+        record("Ace", 150, 4, Achievement.FIRST_BLOOD);
 
-        List<LeaderboardEntry> top5 = repository.findTop5ByOrderByScoreDesc();
+        PlayerProfile profile = repository.findById("ace").orElseThrow();
+        assertThat(profile.getDisplayName()).isEqualTo("Ace");
+        assertThat(profile.getBestScore()).isEqualTo(150);
+        assertThat(profile.getTotalGames()).isEqualTo(1);
+        assertThat(profile.getTotalWins()).isEqualTo(4);
+        assertThat(profile.getAchievements()).containsExactly(Achievement.FIRST_BLOOD);
+    }
+
+    @Test
+    void testRecordGame_UpsertsAggregatesForSameNormalizedName() {
+        record("Ace  High", 300, 6, Achievement.FIRST_BLOOD);
+        record(" ace high ", 120, 2, Achievement.SNAKE_EYES);
 
-        assertThat(top5).hasSize(5);
-        assertThat(top5.get(0).getScore()).isEqualTo(300);
-        assertThat(top5.get(0).getPlayerName()).isEqualTo("Player4");
-        assertThat(top5.get(4).getScore()).isEqualTo(50); // 50 is 5th place
+        assertThat(repository.count()).isEqualTo(1);
+        PlayerProfile profile = repository.findById("ace high").orElseThrow();
+        assertThat(profile.getBestScore()).isEqualTo(300);
+        assertThat(profile.getTotalGames()).isEqualTo(2);
+        assertThat(profile.getTotalWins()).isEqualTo(8);
+        assertThat(profile.getAchievements())
+                .containsExactlyInAnyOrder(Achievement.FIRST_BLOOD, Achievement.SNAKE_EYES);
     }
 }
@@ -0,0 +1,47 @@
+package com.example.craps.service;
+
+import com.example.craps.model.GameSession;
+import com.example.craps.service.GameReplayVerifier.GameRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class GameRecorderTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testRecord_AppendsTraceableLine() throws Exception {
+        Path file = dir.resolve("games.log");
+        GameSession session = new GameSession();
+        session.roll(3, 4);
+
+        new GameRecorder(file.toString()).record("ace", session);
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(1);
+        GameRecord record = GameRecord.parse(lines.get(0));
+        assertThat(record.playerKey()).isEqualTo("ace");
+        assertThat(record.savedAt()).isNotNull();
+        assertThat(record.expectedBankroll()).isEqualTo(110);
+    }
+
+    @Test
+    void testRecord_WriteFailureDoesNotThrow() {
+        // The directory itself is not a writable file
+        assertThatCode(() -> new GameRecorder(dir.toString()).record("ace", new GameSession()))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void testRecord_DisabledWhenBlank() {
+        assertThatCode(() -> new GameRecorder("").record("ace", new GameSession())).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.craps.service;
+
+import com.example.craps.model.Achievement;
+import com.example.craps.model.GameSession;
+import com.example.craps.service.GameReplayVerifier.GameRecord;
+import com.example.craps.service.GameReplayVerifier.Result;
+import com.example.craps.service.GameReplayVerifier.Summary;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameReplayVerifierTest {
+
+    private final GameReplayVerifier verifier = new GameReplayVerifier(3);
+
+    @Test
+    void testVerify_PassLineAndOddsPayoutMatch() {
+        // Point 4 with $10 odds: $10 pass line + $20 odds payout
+        Result result = verifier.verify(GameRecord.parse("g1|ace|2026-10-19T12:00:00Z|130|POINT_SNIPER,FIRST_BLOOD|R2,2 O10 R1,3"));
+        assertThat(result.matches()).isTrue();
+        assertThat(result.actualBankroll()).isEqualTo(130);
+    }
+
+    @Test
+    void testVerify_FlagsBankrollMismatch() {
+        Result result = verifier.verify(GameRecord.parse("g2|ace|2026-10-19T12:00:00Z|150|FIRST_BLOOD|B25 R3,4"));
+        assertThat(result.matches()).isFalse();
+        assertThat(result.actualBankroll()).isEqualTo(125);
+    }
+
+    @Test
+    void testVerify_FlagsAchievementMismatch() {
+        Result result = verifier.verify(GameRecord.parse("g3|ace|2026-10-19T12:00:00Z|90||R1,1"));
+        assertThat(result.matches()).isFalse();
+        assertThat(result.actualAchievements()).containsExactly(Achievement.SNAKE_EYES);
+    }
+
+    @Test
+    void testVerifyAll_StreamsResultsInOrderAcrossBatches() {
+        String input = """
+                a|pa|2026-10-19T12:00:00Z|110|FIRST_BLOOD|R3,4
+                b|pb|2026-10-19T12:00:00Z|90|SNAKE_EYES|R1,1
+                c|pc|2026-10-19T12:00:00Z|999||R1,2
+                d|pd|2026-10-19T12:00:00Z|80||R2,2 O10 R3,4
+                e|pe|2026-10-19T12:00:00Z|100||R9,9
+                """;
+        List<Result> results = new ArrayList<>();
+
+        Summary summary = verifier.verifyAll(new BufferedReader(new StringReader(input)), results::add);
+
+        assertThat(results).extracting(Result::gameId).containsExactly("a", "b", "c", "d", "e");
+        assertThat(results).extracting(Result::matches).containsExactly(true, true, false, true, false);
+        assertThat(results.get(4).error()).contains("Die out of range");
+        assertThat(summary).isEqualTo(new Summary(5, 2));
+    }
+
+    @Test
+    void testFormat_RecordedSessionReplaysToSameResult() {
+        GameSession session = new GameSession();
+        session.setCurrentBet(25);
+        session.roll(3, 4); // Natural, +25
+        session.roll(2, 3); // Point 5
+        session.placeOddsBet(50);
+        session.roll(1, 2); // Continue
+        session.roll(1, 4); // Hit point, +25 pass line +75 odds
+
+        Instant savedAt = Instant.parse("2026-10-19T12:00:00Z");
+        String line = GameRecord.format("rec", "ace | high", savedAt, session);
+        assertThat(line).isEqualTo("rec|ace+%7C+high|2026-10-19T12:00:00Z|225|FIRST_BLOOD|B25 R3,4 R2,3 O50 R1,2 R1,4");
+
+        GameRecord record = GameRecord.parse(line);
+        assertThat(record.playerKey()).isEqualTo("ace | high");
+        assertThat(record.savedAt()).isEqualTo(savedAt);
+        assertThat(verifier.verify(record).matches()).isTrue();
+    }
+
+    @Test
+    void testConstructor_RejectsNonPositiveBatchSize() {
+        assertThatThrownBy(() -> new GameReplayVerifier(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GameReplayVerifier(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
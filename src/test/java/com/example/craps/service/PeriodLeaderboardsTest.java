@@ -0,0 +1,106 @@
+package com.example.craps.service;
+
+import com.example.craps.model.LeaderboardPeriod;
+import com.example.craps.service.PeriodLeaderboards.Standing;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PeriodLeaderboardsTest {
+
+    // Wednesday, so the week started on Monday the 12th
+    private static final LocalDate WEDNESDAY = LocalDate.of(2026, 10, 14);
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(LocalDate date) { set(date); }
+
+        void set(LocalDate date) { instant = date.atStartOfDay(ZoneOffset.UTC).toInstant(); }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return instant; }
+    }
+
+    private MutableClock clock;
+    private PeriodLeaderboards leaderboards;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(WEDNESDAY);
+        leaderboards = new PeriodLeaderboards(clock, 3, 14);
+    }
+
+    @Test
+    void testTop_SortedAndBoundedToCapacity() {
+        leaderboards.record("a", "A", 100);
+        leaderboards.record("b", "B", 300);
+        leaderboards.record("c", "C", 200);
+        leaderboards.record("d", "D", 50);
+
+        assertThat(leaderboards.top(LeaderboardPeriod.DAILY, 5))
+                .extracting(Standing::score).containsExactly(300, 200, 100);
+        assertThat(leaderboards.top(LeaderboardPeriod.DAILY, 2))
+                .extracting(Standing::displayName).containsExactly("B", "C");
+    }
+
+    @Test
+    void testTop_KeepsBestScorePerPlayer() {
+        leaderboards.record("a", "A", 100);
+        leaderboards.record("a", "A", 250);
+        leaderboards.record("a", "A", 150);
+
+        assertThat(leaderboards.top(LeaderboardPeriod.WEEKLY, 5))
+                .containsExactly(new Standing("a", "A", 250));
+    }
+
+    @Test
+    void testRollover_ClosedDayBecomesSnapshot() {
+        leaderboards.record("a", "A", 100);
+        clock.set(WEDNESDAY.plusDays(1));
+        leaderboards.record("b", "B", 50);
+
+        assertThat(leaderboards.top(LeaderboardPeriod.DAILY, 5))
+                .extracting(Standing::playerKey).containsExactly("b");
+        assertThat(leaderboards.snapshot(LeaderboardPeriod.DAILY, WEDNESDAY, 5))
+                .extracting(Standing::playerKey).containsExactly("a");
+        assertThat(leaderboards.top(LeaderboardPeriod.WEEKLY, 5))
+                .extracting(Standing::playerKey).containsExactly("a", "b");
+        assertThat(leaderboards.top(LeaderboardPeriod.ALL_TIME, 5))
+                .extracting(Standing::playerKey).containsExactly("a", "b");
+    }
+
+    @Test
+    void testRollover_WeekClosesOnMonday() {
+        leaderboards.record("a", "A", 100);
+        clock.set(LocalDate.of(2026, 10, 19));
+
+        assertThat(leaderboards.top(LeaderboardPeriod.WEEKLY, 5)).isEmpty();
+        assertThat(leaderboards.snapshot(LeaderboardPeriod.WEEKLY, WEDNESDAY, 5))
+                .extracting(Standing::playerKey).containsExactly("a");
+    }
+
+    @Test
+    void testRetention_PrunesOldSnapshots() {
+        leaderboards.record("a", "A", 100);
+        clock.set(WEDNESDAY.plusDays(1));
+        leaderboards.record("b", "B", 100);
+        clock.set(WEDNESDAY.plusDays(15));
+
+        assertThat(leaderboards.snapshot(LeaderboardPeriod.DAILY, WEDNESDAY, 5)).isEmpty();
+        assertThat(leaderboards.snapshot(LeaderboardPeriod.DAILY, WEDNESDAY.plusDays(1), 5))
+                .extracting(Standing::playerKey).containsExactly("b");
+        assertThat(leaderboards.top(LeaderboardPeriod.ALL_TIME, 5)).hasSize(2);
+    }
+
+    @Test
+    void testConstructor_RejectsNonPositiveLimits() {
+        assertThatThrownBy(() -> new PeriodLeaderboards(clock, 0, 14)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PeriodLeaderboards(clock, 3, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.craps.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitInterceptor interceptor = new RateLimitInterceptor(3, 1, meterRegistry);
+
+    private MockHttpServletResponse roll(MockHttpSession session, String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/roll");
+        if (session != null) request.setSession(session);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean allowed = interceptor.preHandle(request, response, new Object());
+        assertThat(allowed).isEqualTo(response.getStatus() == 200);
+        if (allowed) interceptor.afterCompletion(request, response, new Object(), null);
+        return response;
+    }
+
+    private double limited(String reason) {
+        return meterRegistry.counter("craps.requests.limited", "uri", "/roll", "reason", reason).count();
+    }
+
+    @Test
+    void testPreHandle_RejectsOverBurstWithRecoverable429() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        for (int i = 0; i < 3; i++) {
+            assertThat(roll(session, "/roll").getStatus()).isEqualTo(200);
+        }
+
+        MockHttpServletResponse limited = roll(session, "/roll");
+        assertThat(limited.getStatus()).isEqualTo(429);
+        assertThat(limited.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(limited.getHeader("Refresh")).isEqualTo("1; url=/");
+        assertThat(limited.getContentAsString()).contains("Too many requests");
+        assertThat(limited("rate")).isEqualTo(1.0);
+    }
+
+    @Test
+    void testPreHandle_TagsByPatternNotRawUri() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        for (int i = 0; i < 3; i++) roll(session, "/roll");
+
+        roll(session, "/roll;jsessionid=ABC");
+        roll(session, "/roll;jsessionid=DEF");
+
+        assertThat(limited("rate")).isEqualTo(2.0);
+        assertThat(meterRegistry.find("craps.requests.limited").counters()).hasSize(1);
+    }
+
+    @Test
+    void testPreHandle_RedirectsRequestsWithoutSessionToTable() throws Exception {
+        MockHttpServletResponse response = roll(null, "/roll");
+        assertThat(response.getStatus()).isEqualTo(302);
+        assertThat(response.getRedirectedUrl()).isEqualTo("/");
+        assertThat(limited("no-session")).isEqualTo(1.0);
+    }
+
+    @Test
+    void testPreHandle_CoalescesConcurrentActionsInSameSession() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        MockHttpServletRequest first = new MockHttpServletRequest("POST", "/roll");
+        first.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/roll");
+        first.setSession(session);
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(first, firstResponse, new Object())).isTrue();
+
+        // Duplicate while the first is still running is folded into it
+        MockHttpServletResponse duplicate = roll(session, "/roll");
+        assertThat(duplicate.getStatus()).isEqualTo(302);
+        assertThat(duplicate.getRedirectedUrl()).isEqualTo("/");
+        assertThat(limited("coalesced")).isEqualTo(1.0);
+
+        interceptor.afterCompletion(first, firstResponse, new Object(), null);
+        assertThat(roll(session, "/roll").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void testConstructor_RejectsInvalidLimits() {
+        assertThatThrownBy(() -> new RateLimitInterceptor(0, 1, meterRegistry)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RateLimitInterceptor(5, 0, meterRegistry)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RateLimitInterceptor(5, Double.NaN, meterRegistry)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RateLimitInterceptor(Integer.MAX_VALUE, 1e-9, meterRegistry))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testPreHandle_SessionsAreIndependent() throws Exception {
+        MockHttpSession automated = new MockHttpSession();
+        for (int i = 0; i < 10; i++) roll(automated, "/roll");
+
+        assertThat(roll(new MockHttpSession(), "/roll").getStatus()).isEqualTo(200);
+    }
+}
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void testTryAcquire_AllowsBurstThenWaitsForRefill() {
+        TokenBucket bucket = new TokenBucket(2, 4, 0);
+
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isEqualTo(SECOND / 4);
+
+        assertThat(bucket.tryAcquire(SECOND / 4)).isZero();
+        assertThat(bucket.tryAcquire(SECOND / 4)).isPositive();
+    }
+
+    @Test
+    void testTryAcquire_IdleTimeRefillsOnlyUpToBurst() {
+        TokenBucket bucket = new TokenBucket(2, 4, 0);
+
+        long later = 10 * SECOND;
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isPositive();
+    }
+
+    @Test
+    void testDefaults_NeverLimitPlayerAtUiCadence() {
+        TokenBucket bucket = new TokenBucket(RateLimitInterceptor.DEFAULT_BURST,
+                RateLimitInterceptor.DEFAULT_TOKENS_PER_SECOND, 0);
+
+        // Fastest pace the UI allows for ten minutes: come-out roll (1.5s animation), an odds
+        // bet 0.3s after the page loads, then the point roll (another 1.5s animation)
+        long now = 0;
+        long[] gaps = {SECOND * 3 / 2, SECOND * 3 / 10, SECOND * 3 / 2};
+        for (int i = 0; now < 600 * SECOND; i++) {
+            now += gaps[i % gaps.length];
+            assertThat(bucket.tryAcquire(now)).as("action at %dms", now / 1_000_000).isZero();
+        }
+    }
+}